@@ -6,6 +6,9 @@ import com.loki.loki_chat.dto.response.MessageResponse;
 import com.loki.loki_chat.service.ChatService;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -19,6 +22,9 @@ public class ChatController {
     @Autowired
     private ChatService chatService;
 
+    @Autowired
+    private ApplicationAvailability applicationAvailability;
+
     /**
      * Send a message to AI - creates new conversation if conversationId is null
      */
@@ -109,4 +115,16 @@ public class ChatController {
     public ResponseEntity<String> healthCheck() {
         return ResponseEntity.ok("Chat service is running");
     }
+
+
+    /**
+     * Readiness check endpoint - only ready once startup warm-up has completed
+     */
+    @GetMapping("/ready")
+    public ResponseEntity<String> readinessCheck() {
+        if (applicationAvailability.getReadinessState() != ReadinessState.ACCEPTING_TRAFFIC) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body("Chat service is warming up");
+        }
+        return ResponseEntity.ok("Chat service is ready");
+    }
 }
@@ -12,7 +12,9 @@ import java.util.UUID;
 @Repository
 public interface ChatConversationRepository extends JpaRepository<ChatConversation, UUID> {
 
-    @Query("SELECT c FROM ChatConversation c ORDER BY c.updatedAt DESC")
+    String FIND_ALL_ORDER_BY_UPDATED_AT_DESC = "SELECT c FROM ChatConversation c ORDER BY c.updatedAt DESC";
+
+    @Query(FIND_ALL_ORDER_BY_UPDATED_AT_DESC)
     List<ChatConversation> findAllByOrderByUpdatedAtDesc();
 
     List<ChatConversation> findAllByOrderByUpdatedAtDesc(Pageable pageable);
@@ -0,0 +1,224 @@
+package com.loki.loki_chat.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loki.loki_chat.dto.response.ChatResponse;
+import com.loki.loki_chat.dto.response.ConversationResponse;
+import com.loki.loki_chat.dto.response.MessageResponse;
+import com.loki.loki_chat.models.ChatConversation;
+import com.loki.loki_chat.models.ChatMessage;
+import com.loki.loki_chat.models.MessageRole;
+import com.loki.loki_chat.repository.ChatConversationRepository;
+import com.loki.loki_chat.repository.ChatMessageRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.ollama.api.OllamaOptions;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Warms up the connection pool, persistence paths and model before the instance takes traffic.
+ * Runs as an ApplicationRunner, so Spring only switches the readiness state to ACCEPTING_TRAFFIC
+ * once it has returned. Each step is retried with backoff; if a step still fails the runner throws
+ * and startup fails, so the instance never reports ready while cold. Restarting it is left to the
+ * deployment (see the restart policy in docker-compose.yml).
+ */
+@Service
+public class WarmupService implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(WarmupService.class);
+
+    private static final String WARMUP_TEXT = "warmup";
+
+    @Autowired
+    private ChatConversationRepository conversationRepository;
+
+    @Autowired
+    private ChatMessageRepository messageRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${lokichat.warmup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${lokichat.warmup.models:${spring.ai.ollama.chat.options.model}}")
+    private List<String> models;
+
+    @Value("${lokichat.warmup.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${lokichat.warmup.initial-backoff:2s}")
+    private Duration initialBackoff;
+
+    @Value("${spring.ai.ollama.chat.options.keep-alive:30m}")
+    private String keepAlive;
+
+    private final ChatClient chatClient;
+
+    public WarmupService(ChatClient.Builder builder) {
+        this.chatClient = builder.build();
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws InterruptedException {
+        if (!enabled) {
+            logger.info("Warm-up disabled, skipping");
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+
+        runWithRetry("connection pool", this::warmUpConnectionPool);
+        runWithRetry("repositories", this::warmUpRepositories);
+        for (String model : models) {
+            runWithRetry("model " + model, () -> warmUpModel(model));
+        }
+
+        logger.info("Warm-up completed in {} ms", System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Run a warm-up step, retrying with exponential backoff. Throws once all attempts have failed.
+     */
+    private void runWithRetry(String step, Runnable task) throws InterruptedException {
+        Duration backoff = initialBackoff;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                task.run();
+                return;
+            } catch (Exception e) {
+                if (attempt >= maxAttempts) {
+                    throw new IllegalStateException("Warm-up of " + step + " failed", e);
+                }
+                logger.warn("Warm-up of {} failed (attempt {}/{}), retrying in {}: {}",
+                        step, attempt, maxAttempts, backoff, e.getMessage());
+                Thread.sleep(backoff.toMillis());
+                backoff = backoff.multipliedBy(2);
+            }
+        }
+    }
+
+    /**
+     * Hold minimum-idle connections at once and validate them. Hikari fills the pool in the background;
+     * this blocks until those connections actually exist and work. The pool is already running by now
+     * (Hibernate opened it for ddl-auto), so getMinimumIdle() is Hikari's effective, validated value.
+     */
+    private void warmUpConnectionPool() {
+        List<Connection> connections = new ArrayList<>();
+        try {
+            int poolSize = dataSource.unwrap(HikariDataSource.class).getMinimumIdle();
+            for (int i = 0; i < poolSize; i++) {
+                Connection connection = dataSource.getConnection();
+                connections.add(connection);
+                if (!connection.isValid(5)) {
+                    throw new IllegalStateException("Connection " + (i + 1) + " is not valid");
+                }
+            }
+            logger.info("Primed {} database connections", connections.size());
+        } catch (SQLException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        } finally {
+            for (Connection connection : connections) {
+                try {
+                    connection.close();
+                } catch (Exception e) {
+                    logger.warn("Error releasing warm-up connection: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Save a throwaway conversation, read it back through the repository queries and DTO mappings used
+     * by the chat endpoints (including the lazy messages fetch), serialize the results, then roll back.
+     * Every read is bounded to the warm-up rows or a single row, so cost doesn't grow with the data.
+     */
+    private void warmUpRepositories() {
+        transactionTemplate.executeWithoutResult(status -> {
+            status.setRollbackOnly();
+
+            // Unique title so the search below only matches the warm-up row
+            String title = WARMUP_TEXT + " " + UUID.randomUUID();
+            ChatConversation conversation = conversationRepository.save(new ChatConversation(title));
+            messageRepository.save(new ChatMessage(WARMUP_TEXT, MessageRole.USER, conversation));
+            UUID conversationId = conversation.getId();
+
+            // Detach everything so the reads below go to the database
+            entityManager.flush();
+            entityManager.clear();
+
+            List<Object> bodies = new ArrayList<>();
+            // Same JPQL as the unpaged findAllByOrderByUpdatedAtDesc() behind the conversation list, limited
+            // to one row; Hibernate caches the query plan by its string, so the repository call reuses it
+            bodies.add(entityManager.createQuery(ChatConversationRepository.FIND_ALL_ORDER_BY_UPDATED_AT_DESC, ChatConversation.class)
+                    .setMaxResults(1)
+                    .getResultList().stream()
+                    .map(ConversationResponse::fromChatConversation).toList());
+            bodies.add(conversationRepository.findAllByOrderByUpdatedAtDesc(PageRequest.of(0, 1)).stream()
+                    .map(ConversationResponse::fromChatConversation).toList());
+            bodies.add(conversationRepository.findById(conversationId)
+                    .map(ConversationResponse::fromChatConversation)
+                    .orElseThrow(() -> new IllegalStateException("Warm-up conversation not found")));
+            bodies.add(messageRepository.findByConversationIdOrderByCreatedAtAsc(conversationId).stream()
+                    .map(MessageResponse::fromChatMessage).toList());
+            bodies.add(messageRepository.findByConversationIdOrderByCreatedAtDesc(conversationId, PageRequest.of(0, 1)).stream()
+                    .map(MessageResponse::fromChatMessage).toList());
+            bodies.add(conversationRepository.findByTitleContainingIgnoreCase(title).stream()
+                    .map(ConversationResponse::fromChatConversation).toList());
+            bodies.add(new ChatResponse(conversationId.toString(), WARMUP_TEXT, WARMUP_TEXT, WARMUP_TEXT, LocalDateTime.now()));
+
+            for (Object body : bodies) {
+                try {
+                    objectMapper.writeValueAsString(body);
+                } catch (Exception e) {
+                    throw new IllegalStateException("Error serializing warm-up response: " + e.getMessage(), e);
+                }
+            }
+        });
+        logger.info("Warmed up repository queries and response mapping");
+    }
+
+    /**
+     * Load the model into Ollama and keep it resident for the keep-alive period
+     */
+    private void warmUpModel(String model) {
+        long start = System.currentTimeMillis();
+        chatClient.prompt()
+                .user("Hi")
+                .options(OllamaOptions.builder()
+                        .model(model)
+                        .keepAlive(keepAlive)
+                        .numPredict(1)
+                        .build())
+                .call()
+                .content();
+        logger.info("Loaded model {} in {} ms (keep-alive {})", model, System.currentTimeMillis() - start, keepAlive);
+    }
+}
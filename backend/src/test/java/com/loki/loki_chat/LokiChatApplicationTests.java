@@ -3,7 +3,10 @@ package com.loki.loki_chat;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = {
+		"lokichat.warmup.enabled=false",
+		"spring.ai.ollama.init.pull-model-strategy=never"
+})
 class LokiChatApplicationTests {
 
 	@Test
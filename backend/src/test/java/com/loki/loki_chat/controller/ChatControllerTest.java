@@ -0,0 +1,52 @@
+package com.loki.loki_chat.controller;
+
+import com.loki.loki_chat.service.ChatService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.availability.ApplicationAvailability;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(ChatController.class)
+class ChatControllerTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@MockitoBean
+	private ChatService chatService;
+
+	@MockitoBean
+	private ApplicationAvailability applicationAvailability;
+
+	@Test
+	void readyReturnsServiceUnavailableWhileRefusingTraffic() throws Exception {
+		when(applicationAvailability.getReadinessState()).thenReturn(ReadinessState.REFUSING_TRAFFIC);
+
+		mockMvc.perform(get("/api/v1/chat/ready"))
+				.andExpect(status().isServiceUnavailable());
+	}
+
+	@Test
+	void readyReturnsOkOnceAcceptingTraffic() throws Exception {
+		when(applicationAvailability.getReadinessState()).thenReturn(ReadinessState.ACCEPTING_TRAFFIC);
+
+		mockMvc.perform(get("/api/v1/chat/ready"))
+				.andExpect(status().isOk());
+	}
+
+	@Test
+	void healthIsAlwaysOk() throws Exception {
+		when(applicationAvailability.getReadinessState()).thenReturn(ReadinessState.REFUSING_TRAFFIC);
+
+		mockMvc.perform(get("/api/v1/chat/health"))
+				.andExpect(status().isOk());
+	}
+
+}
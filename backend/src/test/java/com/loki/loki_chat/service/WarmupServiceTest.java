@@ -0,0 +1,203 @@
+package com.loki.loki_chat.service;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.loki.loki_chat.models.ChatConversation;
+import com.loki.loki_chat.models.ChatMessage;
+import com.loki.loki_chat.models.MessageRole;
+import com.loki.loki_chat.repository.ChatConversationRepository;
+import com.loki.loki_chat.repository.ChatMessageRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.ai.chat.client.ChatClient;
+import org.springframework.ai.chat.prompt.ChatOptions;
+import org.springframework.ai.ollama.api.OllamaOptions;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class WarmupServiceTest {
+
+	private static final int POOL_SIZE = 3;
+
+	private static final int MAX_ATTEMPTS = 3;
+
+	private WarmupService warmupService;
+
+	private ChatClient.ChatClientRequestSpec requestSpec;
+
+	private ChatClient.CallResponseSpec callSpec;
+
+	private HikariDataSource dataSource;
+
+	private Connection connection;
+
+	private TransactionTemplate transactionTemplate;
+
+	private ChatConversationRepository conversationRepository;
+
+	private EntityManager entityManager;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() throws Exception {
+		ChatClient chatClient = mock(ChatClient.class);
+		requestSpec = mock(ChatClient.ChatClientRequestSpec.class, RETURNS_SELF);
+		callSpec = mock(ChatClient.CallResponseSpec.class);
+		when(chatClient.prompt()).thenReturn(requestSpec);
+		when(requestSpec.call()).thenReturn(callSpec);
+		when(callSpec.content()).thenReturn("Hi");
+
+		ChatClient.Builder builder = mock(ChatClient.Builder.class);
+		when(builder.build()).thenReturn(chatClient);
+
+		dataSource = mock(HikariDataSource.class);
+		connection = mock(Connection.class);
+		when(dataSource.unwrap(HikariDataSource.class)).thenReturn(dataSource);
+		when(dataSource.getMinimumIdle()).thenReturn(POOL_SIZE);
+		when(dataSource.getConnection()).thenReturn(connection);
+		when(connection.isValid(anyInt())).thenReturn(true);
+
+		ChatConversation conversation = new ChatConversation(UUID.randomUUID(), "warmup",
+				LocalDateTime.now(), LocalDateTime.now(), new ArrayList<>());
+		ChatMessage message = new ChatMessage("warmup", MessageRole.USER, conversation);
+		message.setId(UUID.randomUUID());
+		message.setCreatedAt(LocalDateTime.now());
+		conversation.getMessages().add(message);
+
+		conversationRepository = mock(ChatConversationRepository.class);
+		when(conversationRepository.save(any(ChatConversation.class))).thenReturn(conversation);
+		when(conversationRepository.findAllByOrderByUpdatedAtDesc(any(Pageable.class))).thenReturn(List.of(conversation));
+		when(conversationRepository.findById(conversation.getId())).thenReturn(Optional.of(conversation));
+		when(conversationRepository.findByTitleContainingIgnoreCase(anyString())).thenReturn(List.of(conversation));
+
+		TypedQuery<ChatConversation> allConversationsQuery = mock(TypedQuery.class, RETURNS_SELF);
+		when(allConversationsQuery.getResultList()).thenReturn(List.of(conversation));
+		entityManager = mock(EntityManager.class);
+		when(entityManager.createQuery(ChatConversationRepository.FIND_ALL_ORDER_BY_UPDATED_AT_DESC, ChatConversation.class))
+				.thenReturn(allConversationsQuery);
+
+		ChatMessageRepository messageRepository = mock(ChatMessageRepository.class);
+		when(messageRepository.save(any(ChatMessage.class))).thenReturn(message);
+		when(messageRepository.findByConversationIdOrderByCreatedAtAsc(conversation.getId())).thenReturn(List.of(message));
+		when(messageRepository.findByConversationIdOrderByCreatedAtDesc(eq(conversation.getId()), any(Pageable.class)))
+				.thenReturn(List.of(message));
+
+		transactionTemplate = mock(TransactionTemplate.class);
+		doAnswer(invocation -> {
+			invocation.<Consumer<TransactionStatus>>getArgument(0).accept(mock(TransactionStatus.class));
+			return null;
+		}).when(transactionTemplate).executeWithoutResult(any(Consumer.class));
+
+		warmupService = new WarmupService(builder);
+		ReflectionTestUtils.setField(warmupService, "conversationRepository", conversationRepository);
+		ReflectionTestUtils.setField(warmupService, "messageRepository", messageRepository);
+		ReflectionTestUtils.setField(warmupService, "dataSource", dataSource);
+		ReflectionTestUtils.setField(warmupService, "transactionTemplate", transactionTemplate);
+		ReflectionTestUtils.setField(warmupService, "objectMapper", JsonMapper.builder().findAndAddModules().build());
+		ReflectionTestUtils.setField(warmupService, "entityManager", entityManager);
+		ReflectionTestUtils.setField(warmupService, "enabled", true);
+		ReflectionTestUtils.setField(warmupService, "models", List.of("llama2"));
+		ReflectionTestUtils.setField(warmupService, "maxAttempts", MAX_ATTEMPTS);
+		ReflectionTestUtils.setField(warmupService, "initialBackoff", Duration.ZERO);
+		ReflectionTestUtils.setField(warmupService, "keepAlive", "30m");
+	}
+
+	@Test
+	void completesWhenAllStepsSucceed() throws Exception {
+		warmupService.run(null);
+
+		verify(dataSource, times(POOL_SIZE)).getConnection();
+		verify(connection, times(POOL_SIZE)).close();
+		verify(transactionTemplate).executeWithoutResult(any());
+		verify(entityManager).createQuery(ChatConversationRepository.FIND_ALL_ORDER_BY_UPDATED_AT_DESC, ChatConversation.class);
+
+		ArgumentCaptor<String> title = ArgumentCaptor.forClass(String.class);
+		verify(conversationRepository).save(any(ChatConversation.class));
+		verify(conversationRepository).findByTitleContainingIgnoreCase(title.capture());
+		assertTrue(title.getValue().startsWith("warmup "));
+
+		ArgumentCaptor<ChatOptions> options = ArgumentCaptor.forClass(ChatOptions.class);
+		verify(requestSpec).options(options.capture());
+		OllamaOptions ollamaOptions = (OllamaOptions) options.getValue();
+		assertEquals("llama2", ollamaOptions.getModel());
+		assertEquals("30m", ollamaOptions.getKeepAlive());
+		verify(callSpec).content();
+	}
+
+	@Test
+	void retriesModelLoadUntilItSucceeds() throws Exception {
+		when(callSpec.content())
+				.thenThrow(new RuntimeException("connection refused"))
+				.thenReturn("Hi");
+
+		warmupService.run(null);
+
+		verify(callSpec, times(2)).content();
+	}
+
+	@Test
+	void failsWhenModelNeverLoads() {
+		when(callSpec.content()).thenThrow(new RuntimeException("model 'llama2' not found"));
+
+		assertThrows(IllegalStateException.class, () -> warmupService.run(null));
+		verify(callSpec, times(MAX_ATTEMPTS)).content();
+	}
+
+	@Test
+	void failsWhenConnectionIsInvalid() throws Exception {
+		when(connection.isValid(anyInt())).thenReturn(false);
+
+		assertThrows(IllegalStateException.class, () -> warmupService.run(null));
+		verify(connection, times(MAX_ATTEMPTS)).close();
+		verify(callSpec, never()).content();
+	}
+
+	@Test
+	void failsWhenRepositoriesFail() {
+		when(conversationRepository.save(any(ChatConversation.class))).thenThrow(new RuntimeException("relation does not exist"));
+
+		assertThrows(IllegalStateException.class, () -> warmupService.run(null));
+		verify(transactionTemplate, times(MAX_ATTEMPTS)).executeWithoutResult(any());
+		verify(callSpec, never()).content();
+	}
+
+	@Test
+	void skipsEverythingWhenDisabled() throws Exception {
+		ReflectionTestUtils.setField(warmupService, "enabled", false);
+
+		warmupService.run(null);
+
+		verifyNoInteractions(dataSource, transactionTemplate, callSpec);
+	}
+
+}